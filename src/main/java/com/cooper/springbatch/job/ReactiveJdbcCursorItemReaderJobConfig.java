@@ -0,0 +1,94 @@
+package com.cooper.springbatch.job;
+
+import com.cooper.springbatch.job.domain.Pay;
+import com.cooper.springbatch.job.reactive.ReactiveChunkTasklet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+
+import javax.sql.DataSource;
+
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class ReactiveJdbcCursorItemReaderJobConfig {
+
+    private final JobBuilderFactory jobBuilderFactory;
+
+    private final StepBuilderFactory stepBuilderFactory;
+
+    private final DataSource dataSource;
+
+    private static final int CHUNK_SIZE = 10;
+
+    private static final int CONCURRENCY = 4;
+
+    @Bean
+    public Job reactiveJdbcCursorItemReaderJob() {
+        return jobBuilderFactory.get("reactiveJdbcCursorItemReaderJob")
+                .start(reactiveJdbcCursorItemReaderStep())
+                .build();
+    }
+
+    /**
+     * Reactive Step
+     * - chunk() 대신 ReactiveChunkTasklet 으로 read/process/write 를 파이프라인으로 수행한다.
+     * - tasklet 이 재시작 위치를 저장하므로 stream 으로도 등록해야 한다.
+     * - execute() 한 번이 CHUNK_SIZE 만큼의 item 을 write 하는 하나의 트랜잭션이다.
+     */
+    @Bean
+    public Step reactiveJdbcCursorItemReaderStep() {
+        ReactiveChunkTasklet<Pay, Pay> tasklet = new ReactiveChunkTasklet<>(
+                reactiveJdbcCursorItemReader(), reactiveJdbcCursorItemProcessor(), reactiveJdbcCursorItemWriter());
+        tasklet.setChunkSize(CHUNK_SIZE);
+        tasklet.setConcurrency(CONCURRENCY);
+
+        return stepBuilderFactory.get("reactiveJdbcCursorItemReaderStep")
+                .tasklet(tasklet)
+                .stream(tasklet)
+                .build();
+    }
+
+    /**
+     * - reader 는 writer 보다 앞서 읽기 때문에 재시작 위치는 ReactiveChunkTasklet 이 커밋된 item 개수로 관리한다.
+     * - saveState 는 기본값(true)으로 둔다. 재시작 시 tasklet 이 jumpToItem(rs.absolute) 으로 바로 이동하기 위해 필요하다.
+     */
+    @Bean
+    public JdbcCursorItemReader<Pay> reactiveJdbcCursorItemReader() {
+        return new JdbcCursorItemReaderBuilder<Pay>()
+                .fetchSize(CHUNK_SIZE)
+                .dataSource(dataSource)
+                .rowMapper(new BeanPropertyRowMapper<>(Pay.class))
+                .sql("SELECT id, amount, tx_name, tx_date_time FROM pay ORDER BY id") // 재시작 시 skip 을 위해 순서 보장
+                .name("reactiveJdbcCursorItemReader")
+                .build();
+    }
+
+    @Bean
+    public ItemProcessor<Pay, Pay> reactiveJdbcCursorItemProcessor() {
+        return pay -> {
+            log.info("processing pay = {}", pay);
+            return pay;
+        };
+    }
+
+    @Bean
+    public ItemWriter<Pay> reactiveJdbcCursorItemWriter() {
+        return list -> {
+            for (Pay pay : list) {
+                log.info("current pay = {}", pay);
+            }
+        };
+    }
+
+}
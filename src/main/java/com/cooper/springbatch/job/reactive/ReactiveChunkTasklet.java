@@ -0,0 +1,253 @@
+package com.cooper.springbatch.job.reactive;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.util.Assert;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * ReactiveChunkTasklet
+ * - Reader -> Processor -> Writer 를 chunk 단위 lockstep 이 아닌 Reactor 파이프라인으로 연결한다.
+ * - Reader 는 요청(request) 받은 만큼만 읽는다. (backpressure, 무한 버퍼링 X)
+ * - Processor 는 concurrency 개수만큼 동시에 수행되고, 결과 순서는 읽은 순서를 유지한다.
+ * - Writer 는 step 스레드에서 chunk 단위로 수행되므로 execute() 한 번 = 트랜잭션 한 번이다.
+ *   (writer 가 쓰는 동안에도 reader/processor 는 다음 chunk 를 미리 준비한다.)
+ *
+ * 주의!) non-blocking I/O 가 아니다.
+ * - JDBC 같은 blocking reader/processor 는 결국 스레드를 점유한다.
+ * - 그래서 step 마다 전용 scheduler (최대 concurrency + 1 개 스레드 : reader 1 + processor N) 를 만들고 close() 에서 정리한다.
+ * - 즉, 내부적으로는 스레드 개수가 제한된 multi-threaded step 이다. (전역 공유 scheduler 는 사용하지 않는다.)
+ * - reader 는 thread-safe 하지 않으므로 한 번에 하나의 스레드에서만 read() 하고, close() 는 진행 중인 read() 가 끝난 뒤에 수행한다.
+ *
+ * 재시작
+ * - reader 는 앞서 읽기 때문에 재시작 위치는 reader 가 아닌 tasklet 이 커밋된 read count 로 저장한다.
+ *   (reader.update() 는 호출하지 않으므로 reader 의 상태는 저장되지 않는다.)
+ * - AbstractItemCountingItemStreamItemReader (ex. JdbcCursorItemReader) 는 jumpToItem 으로 바로 이동하고,
+ *   그 외의 reader 는 커밋된 개수만큼 읽고 버린다.
+ *
+ * 사용법) step 에 tasklet 과 stream 으로 함께 등록한다.
+ *   .tasklet(tasklet).stream(tasklet)
+ */
+@Slf4j
+public class ReactiveChunkTasklet<I, O> implements Tasklet, ItemStream {
+
+    static final String READ_COUNT_KEY = "reactiveChunkTasklet.read.count";
+
+    private final ItemReader<? extends I> reader;
+
+    private final ItemProcessor<? super I, ? extends O> processor;
+
+    private final ItemWriter<? super O> writer;
+
+    private final Object readerLock = new Object();
+
+    @Setter
+    private int chunkSize = 10;
+
+    /** 동시에 수행될 processor 개수 */
+    @Setter
+    private int concurrency = 4;
+
+    /** writer 에 넘기기 전까지 미리 준비해둘 chunk 개수 (stage 사이의 버퍼 크기) */
+    @Setter
+    private int bufferedChunks = 2;
+
+    private Scheduler scheduler;
+
+    private Stream<List<Optional<O>>> chunks;
+
+    private Iterator<List<Optional<O>>> iterator;
+
+    private boolean readerClosed;
+
+    private long readCount;
+
+    public ReactiveChunkTasklet(ItemReader<? extends I> reader,
+                                ItemProcessor<? super I, ? extends O> processor,
+                                ItemWriter<? super O> writer) {
+        Assert.notNull(reader, "reader is required");
+        Assert.notNull(writer, "writer is required");
+        this.reader = reader;
+        this.processor = processor;
+        this.writer = writer;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        Assert.isTrue(chunkSize > 0, "chunkSize must be greater than 0");
+        Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+        Assert.isTrue(bufferedChunks > 0, "bufferedChunks must be greater than 0");
+
+        readCount = executionContext.getLong(READ_COUNT_KEY, 0L);
+        openReader();
+        if (writer instanceof ItemStream) {
+            ((ItemStream) writer).open(executionContext);
+        }
+
+        scheduler = Schedulers.newBoundedElastic(concurrency + 1, Integer.MAX_VALUE, "reactiveChunkTasklet");
+        chunks = Flux.<I>generate(sink -> {
+                    try {
+                        I item = read();
+                        if (item == null) {
+                            sink.complete();
+                        } else {
+                            sink.next(item);
+                        }
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                })
+                .subscribeOn(scheduler)
+                .flatMapSequential(item -> Mono.fromCallable(() -> process(item)).subscribeOn(scheduler),
+                        concurrency, concurrency)
+                .buffer(chunkSize)
+                .toStream(bufferedChunks); // toStream : 요청한 chunk 개수만큼만 upstream 에 request 한다.
+        iterator = chunks.iterator();
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Assert.state(iterator != null, "ReactiveChunkTasklet must be registered as a stream (.stream(tasklet))");
+
+        List<Optional<O>> chunk;
+        try {
+            if (!iterator.hasNext()) {
+                return RepeatStatus.FINISHED;
+            }
+            chunk = iterator.next();
+        } catch (RuntimeException e) {
+            throw unwrap(e); // reader/processor 의 원래 예외로 step 을 실패시킨다. (rollback 분류, failureExceptions)
+        }
+
+        List<O> items = new ArrayList<>(chunk.size());
+        for (Optional<O> result : chunk) {
+            contribution.incrementReadCount();
+            result.ifPresent(items::add);
+        }
+
+        contribution.incrementFilterCount(chunk.size() - items.size());
+        if (!items.isEmpty()) {
+            writer.write(items);
+            contribution.incrementWriteCount(items.size());
+        }
+
+        readCount += chunk.size();
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * chunk 트랜잭션이 커밋되기 직전에 호출된다.
+     * - 여기서 저장되는 read count 는 writer 까지 처리된 item 의 개수다.
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(READ_COUNT_KEY, readCount);
+        if (writer instanceof ItemStream) {
+            ((ItemStream) writer).update(executionContext);
+        }
+    }
+
+    /**
+     * - 파이프라인 구독 취소는 비동기로 일어나므로, 진행 중인 read() 가 끝날 때까지 기다린 뒤 reader 를 닫는다.
+     */
+    @Override
+    public void close() throws ItemStreamException {
+        if (chunks != null) {
+            chunks.close(); // 파이프라인 구독 취소
+            chunks = null;
+            iterator = null;
+        }
+        synchronized (readerLock) {
+            readerClosed = true;
+            if (reader instanceof ItemStream) {
+                ((ItemStream) reader).close();
+            }
+        }
+        if (scheduler != null) {
+            scheduler.dispose();
+            scheduler = null;
+        }
+        if (writer instanceof ItemStream) {
+            ((ItemStream) writer).close();
+        }
+    }
+
+    private void openReader() {
+        synchronized (readerLock) {
+            readerClosed = false;
+            if (reader instanceof AbstractItemCountingItemStreamItemReader
+                    && ((AbstractItemCountingItemStreamItemReader<?>) reader).isSaveState()) {
+                // open() 에서 jumpToItem 으로 커밋된 위치까지 바로 이동한다. (ex. JdbcCursorItemReader : rs.absolute)
+                ((AbstractItemCountingItemStreamItemReader<?>) reader).setCurrentItemCount(Math.toIntExact(readCount));
+                ((AbstractItemCountingItemStreamItemReader<?>) reader).open(new ExecutionContext());
+                return;
+            }
+
+            if (reader instanceof ItemStream) {
+                ((ItemStream) reader).open(new ExecutionContext());
+            }
+            skipCommittedItems();
+        }
+    }
+
+    private I read() throws Exception {
+        synchronized (readerLock) {
+            if (readerClosed) {
+                return null;
+            }
+            return reader.read();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<O> process(I item) throws Exception {
+        if (processor == null) {
+            return Optional.of((O) item);
+        }
+        return Optional.ofNullable(processor.process(item)); // null 반환 = filter
+    }
+
+    private void skipCommittedItems() {
+        try {
+            for (long i = 0; i < readCount; i++) {
+                if (reader.read() == null) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            throw new ItemStreamException("Failed to skip " + readCount + " committed items on restart", e);
+        }
+        if (readCount > 0) {
+            log.info("restart : skipped {} committed items", readCount);
+        }
+    }
+
+    private static Exception unwrap(RuntimeException e) {
+        Throwable cause = Exceptions.unwrap(e);
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return (Exception) cause;
+    }
+}
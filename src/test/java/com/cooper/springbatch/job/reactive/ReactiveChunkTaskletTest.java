@@ -0,0 +1,206 @@
+package com.cooper.springbatch.job.reactive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveChunkTaskletTest {
+
+    private final List<List<Integer>> written = new ArrayList<>();
+
+    private ReactiveChunkTasklet<Integer, Integer> tasklet;
+
+    @AfterEach
+    void tearDown() {
+        if (tasklet != null) {
+            tasklet.close();
+        }
+    }
+
+    @Test
+    void keepsReadOrderWithConcurrentProcessors() throws Exception {
+        tasklet = tasklet(new ListItemReader<>(items(50)), item -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+            return item;
+        }, recordingWriter(), 10);
+        tasklet.open(new ExecutionContext());
+
+        StepContribution contribution = contribution();
+        executeAll(contribution);
+
+        assertThat(written).hasSize(5).allSatisfy(chunk -> assertThat(chunk).hasSize(10));
+        assertThat(flatten(written)).containsExactlyElementsOf(items(50));
+        assertThat(contribution.getReadCount()).isEqualTo(50);
+    }
+
+    @Test
+    void countsFilteredAndWrittenItems() throws Exception {
+        tasklet = tasklet(new ListItemReader<>(items(10)), item -> item % 2 == 0 ? item : null, recordingWriter(), 4);
+        tasklet.open(new ExecutionContext());
+
+        StepContribution contribution = contribution();
+        executeAll(contribution);
+
+        assertThat(contribution.getReadCount()).isEqualTo(10);
+        assertThat(contribution.getFilterCount()).isEqualTo(5);
+        assertThat(contribution.getWriteCount()).isEqualTo(5);
+        assertThat(flatten(written)).containsExactly(2, 4, 6, 8, 10);
+    }
+
+    @Test
+    void writerFailureDoesNotAdvanceReadCount() throws Exception {
+        ItemWriter<Integer> failingWriter = items -> {
+            if (items.contains(5)) {
+                throw new IllegalStateException("writer failed");
+            }
+            written.add(new ArrayList<>(items));
+        };
+        tasklet = tasklet(new ListItemReader<>(items(9)), null, failingWriter, 3);
+        ExecutionContext executionContext = new ExecutionContext();
+        tasklet.open(executionContext);
+
+        tasklet.execute(contribution(), null);
+        tasklet.update(executionContext);
+        assertThat(executionContext.getLong(ReactiveChunkTasklet.READ_COUNT_KEY)).isEqualTo(3);
+
+        assertThatThrownBy(() -> tasklet.execute(contribution(), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("writer failed");
+        tasklet.update(executionContext);
+        assertThat(executionContext.getLong(ReactiveChunkTasklet.READ_COUNT_KEY)).isEqualTo(3);
+    }
+
+    @Test
+    void restartJumpsToCommittedItemOnCountingReader() throws Exception {
+        CountingListItemReader reader = new CountingListItemReader(items(10));
+        tasklet = tasklet(reader, null, recordingWriter(), 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong(ReactiveChunkTasklet.READ_COUNT_KEY, 6);
+        tasklet.open(executionContext);
+
+        executeAll(contribution());
+
+        assertThat(flatten(written)).containsExactly(7, 8, 9, 10);
+        assertThat(reader.jumpedTo).isEqualTo(6);
+        assertThat(reader.doReadCount).isEqualTo(5); // 7 ~ 10 + end of input
+    }
+
+    @Test
+    void restartSkipsCommittedItemsOnOtherReaders() throws Exception {
+        tasklet = tasklet(new ListItemReader<>(items(10)), null, recordingWriter(), 4);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong(ReactiveChunkTasklet.READ_COUNT_KEY, 6);
+        tasklet.open(executionContext);
+
+        executeAll(contribution());
+        tasklet.update(executionContext);
+
+        assertThat(flatten(written)).containsExactly(7, 8, 9, 10);
+        assertThat(executionContext.getLong(ReactiveChunkTasklet.READ_COUNT_KEY)).isEqualTo(10);
+    }
+
+    @Test
+    void rethrowsCheckedExceptionFromProcessor() {
+        tasklet = tasklet(new ListItemReader<>(items(3)), item -> {
+            throw new IOException("processor failed");
+        }, recordingWriter(), 4);
+        tasklet.open(new ExecutionContext());
+
+        assertThatThrownBy(() -> tasklet.execute(contribution(), null))
+                .isInstanceOf(IOException.class)
+                .hasMessage("processor failed");
+    }
+
+    @Test
+    void failsFastWhenNotRegisteredAsStream() {
+        ReactiveChunkTasklet<Integer, Integer> notOpened =
+                tasklet(new ListItemReader<>(items(3)), null, recordingWriter(), 4);
+
+        assertThatThrownBy(() -> notOpened.execute(contribution(), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(".stream(tasklet)");
+    }
+
+    private ReactiveChunkTasklet<Integer, Integer> tasklet(ItemReader<Integer> reader,
+                                                           ItemProcessor<Integer, Integer> processor,
+                                                           ItemWriter<Integer> writer,
+                                                           int chunkSize) {
+        ReactiveChunkTasklet<Integer, Integer> tasklet = new ReactiveChunkTasklet<>(reader, processor, writer);
+        tasklet.setChunkSize(chunkSize);
+        tasklet.setConcurrency(4);
+        return tasklet;
+    }
+
+    private ItemWriter<Integer> recordingWriter() {
+        return items -> written.add(new ArrayList<>(items));
+    }
+
+    private void executeAll(StepContribution contribution) throws Exception {
+        while (tasklet.execute(contribution, null) == RepeatStatus.CONTINUABLE) {
+        }
+    }
+
+    private static StepContribution contribution() {
+        return new StepContribution(MetaDataInstanceFactory.createStepExecution());
+    }
+
+    private static List<Integer> items(int count) {
+        return IntStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Integer> flatten(List<List<Integer>> chunks) {
+        return chunks.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private static class CountingListItemReader extends AbstractItemCountingItemStreamItemReader<Integer> {
+
+        private final List<Integer> items;
+
+        private int jumpedTo;
+
+        private int doReadCount;
+
+        CountingListItemReader(List<Integer> items) {
+            this.items = items;
+            setName("countingListItemReader");
+        }
+
+        @Override
+        protected Integer doRead() {
+            doReadCount++;
+            int index = getCurrentItemCount() - 1;
+            return index < items.size() ? items.get(index) : null;
+        }
+
+        @Override
+        protected void jumpToItem(int itemIndex) {
+            jumpedTo = itemIndex;
+        }
+
+        @Override
+        protected void doOpen() {
+        }
+
+        @Override
+        protected void doClose() {
+        }
+    }
+}